@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.cc.impl
+
+import org.gradle.test.fixtures.file.TestFile
+
+class ConfigurationCacheCompressionIntegrationTest extends AbstractConfigurationCacheIntegrationTest {
+    static final String COMPRESS = "org.gradle.internal.configuration-cache.compress"
+
+    TestFile keyStoreDir
+
+    def setup() {
+        keyStoreDir = new TestFile(testDirectory, 'keystores')
+        buildFile """
+            abstract class PrintValues extends DefaultTask {
+                @Input
+                abstract ListProperty<String> getValues()
+
+                @TaskAction
+                def action() {
+                    println("values = \${values.get()}")
+                }
+            }
+
+            tasks.register("printValues", PrintValues) {
+                values.addAll((1..100).collect { "value-\$it" })
+            }
+        """
+    }
+
+    def "compressed configuration cache entry can be stored and loaded when encryption is #encryption"() {
+        given:
+        def configurationCache = newConfigurationCacheFixture()
+
+        when:
+        configurationCacheRun("printValues", "-D${COMPRESS}=true", *encryptionOptions(encrypted))
+
+        then:
+        configurationCache.assertStateStored()
+        outputContains("values = [value-1, value-2, ")
+
+        when:
+        configurationCacheRun("printValues", "-D${COMPRESS}=true", *encryptionOptions(encrypted))
+
+        then:
+        configurationCache.assertStateLoaded()
+        outputContains("values = [value-1, value-2, ")
+        outputContains("value-100]")
+
+        where:
+        encrypted << [true, false]
+        encryption = encrypted ? "enabled" : "disabled"
+    }
+
+    def "toggling compression invalidates the configuration cache entry when encryption is #encryption"() {
+        given:
+        def configurationCache = newConfigurationCacheFixture()
+
+        when:
+        configurationCacheRun("printValues", "-D${COMPRESS}=false", *encryptionOptions(encrypted))
+
+        then:
+        configurationCache.assertStateStored()
+
+        when:
+        configurationCacheRun("printValues", "-D${COMPRESS}=true", *encryptionOptions(encrypted))
+
+        then:
+        configurationCache.assertStateStored()
+        outputContains("Calculating task graph as no cached configuration is available for tasks: printValues")
+        outputContains("values = [value-1, value-2, ")
+
+        when:
+        configurationCacheRun("printValues", "-D${COMPRESS}=true", *encryptionOptions(encrypted))
+
+        then:
+        configurationCache.assertStateLoaded()
+        outputContains("values = [value-1, value-2, ")
+
+        when:
+        configurationCacheRun("printValues", "-D${COMPRESS}=false", *encryptionOptions(encrypted))
+
+        then:
+        // the entry stored by the first build, without compression, is still there and is read as such
+        configurationCache.assertStateLoaded()
+        outputContains("values = [value-1, value-2, ")
+
+        where:
+        encrypted << [true, false]
+        encryption = encrypted ? "enabled" : "disabled"
+    }
+
+    private List<String> encryptionOptions(boolean encrypted) {
+        encrypted
+            ? ["-Dorg.gradle.internal.configuration-cache.key-store-dir=${keyStoreDir}".toString()]
+            : ["-Dorg.gradle.internal.configuration-cache.encryption=false"]
+    }
+}
@@ -95,9 +95,20 @@ class ConfigurationCacheKey(
         putBoolean(encryptionConfiguration.isEncrypting)
         putHash(encryptionConfiguration.encryptionKeyHashCode)
         putBoolean(startParameter.isDeduplicatingStrings)
+        putBoolean(startParameter.isCompressingEntries)
         putBoolean(startParameter.isFineGrainedPropertyTracking)
         // Integrity check affects the way fingerprint is stored.
         putBoolean(startParameter.isIntegrityCheckEnabled)
+        // The stored fingerprints and snapshots are computed with the default hash function.
+        putDefaultHashFunction()
+    }
+
+    private
+    fun Hasher.putDefaultHashFunction() {
+        val hashFunction = Hashing.defaultFunction()
+        if (hashFunction != Hashing.md5()) {
+            putString(hashFunction.algorithm)
+        }
     }
 
     private
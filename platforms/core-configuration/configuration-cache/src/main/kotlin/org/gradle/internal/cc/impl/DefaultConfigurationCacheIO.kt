@@ -96,6 +96,10 @@ import java.io.Closeable
 import java.io.File
 import java.io.InputStream
 import java.io.OutputStream
+import java.util.zip.Deflater
+import java.util.zip.DeflaterOutputStream
+import java.util.zip.Inflater
+import java.util.zip.InflaterInputStream
 
 
 internal
@@ -428,18 +432,56 @@ class DefaultConfigurationCacheIO internal constructor(
         }
 
     private
-    fun outputStreamFor(stateType: StateType, outputStream: () -> OutputStream) =
-        maybeEncrypt(stateType, outputStream, encryptionService::outputStream)
+    fun outputStreamFor(stateType: StateType, outputStream: () -> OutputStream): OutputStream =
+        maybeCompress(stateType, { maybeEncrypt(stateType, outputStream, encryptionService::outputStream) }, ::compressing)
 
     private
-    fun inputStreamFor(stateType: StateType, inputStream: () -> InputStream) =
-        maybeEncrypt(stateType, inputStream, encryptionService::inputStream)
+    fun inputStreamFor(stateType: StateType, inputStream: () -> InputStream): InputStream =
+        maybeCompress(stateType, { maybeEncrypt(stateType, inputStream, encryptionService::inputStream) }, ::decompressing)
 
     private
     fun <I : Closeable, O : I> maybeEncrypt(stateType: StateType, inner: () -> I, outer: (I) -> O): I =
         if (stateType.encryptable) safeWrap(inner, outer)
         else inner()
 
+    /**
+     * Compression is applied before encryption, since encrypted data does not compress.
+     * Like encryption, it is only applied to the [encryptable][StateType.encryptable] state types,
+     * as those are always streamed sequentially through this class.
+     */
+    private
+    fun <I : Closeable, O : I> maybeCompress(stateType: StateType, inner: () -> I, outer: (I) -> O): I =
+        if (stateType.encryptable && startParameter.isCompressingEntries) safeWrap(inner, outer)
+        else inner()
+
+    private
+    fun compressing(outputStream: OutputStream): OutputStream {
+        val deflater = Deflater(Deflater.BEST_SPEED)
+        return object : DeflaterOutputStream(outputStream, deflater, COMPRESSION_BUFFER_SIZE) {
+            override fun close() {
+                try {
+                    super.close()
+                } finally {
+                    deflater.end()
+                }
+            }
+        }
+    }
+
+    private
+    fun decompressing(inputStream: InputStream): InputStream {
+        val inflater = Inflater()
+        return object : InflaterInputStream(inputStream, inflater, COMPRESSION_BUFFER_SIZE) {
+            override fun close() {
+                try {
+                    super.close()
+                } finally {
+                    inflater.end()
+                }
+            }
+        }
+    }
+
     /**
      * For the [work graph state][StateType.Work], we use the parallel string deduplication strategy since it spans multiple files,
      * for everything else we use the sequential, per encoder/decoder, deduplication strategy.
@@ -668,3 +710,7 @@ class DefaultConfigurationCacheIO internal constructor(
             return this.sharedObjectDecoder
         }
 }
+
+
+private
+const val COMPRESSION_BUFFER_SIZE = 64 * 1024
@@ -73,6 +73,14 @@ class ConfigurationCacheStartParameter internal constructor(
      */
     val isSharingObjects: Boolean = internalOptions.getBoolean("org.gradle.internal.configuration-cache.share-objects", true)
 
+    /**
+     * Whether the state streamed to the configuration cache should be compressed
+     * in order to save space on disk and to read less data on a cache hit.
+     *
+     * The default is `false`.
+     */
+    val isCompressingEntries: Boolean = internalOptions.getBoolean("org.gradle.internal.configuration-cache.compress", false)
+
     /**
      * See [org.gradle.initialization.StartParameterBuildOptions.ConfigurationCacheFineGrainedPropertyTracking].
      */
@@ -16,10 +16,18 @@
 
 package org.gradle.caching.http.internal
 
+import org.gradle.caching.BuildCacheServiceFactory
+import org.gradle.caching.http.HttpBuildCache
+import org.gradle.internal.resource.transport.http.DefaultHttpSettings
+import org.gradle.internal.resource.transport.http.HttpClient
+import org.gradle.internal.resource.transport.http.HttpClientFactory
+import org.gradle.internal.resource.transport.http.HttpSettings
+import org.gradle.internal.resource.transport.http.SslContextFactory
 import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
 import org.gradle.util.TestUtil
 import org.junit.Rule
 import spock.lang.Specification
+import spock.util.environment.RestoreSystemProperties
 
 import static org.gradle.caching.http.internal.DefaultHttpBuildCacheServiceFactory.extractCredentialsFromUserInfo
 
@@ -29,6 +37,8 @@ class DefaultHttpBuildCacheServiceFactoryTest extends Specification {
     TestNameTestDirectoryProvider tmpDir = new TestNameTestDirectoryProvider(getClass())
 
     def objectFactory = TestUtil.objectFactory(tmpDir.testDirectory)
+    def httpClientFactory = Mock(HttpClientFactory)
+    def factory = new DefaultHttpBuildCacheServiceFactory(objectFactory, Stub(SslContextFactory), Stub(HttpBuildCacheRequestCustomizer), httpClientFactory)
 
     def "extract username and password from userinfo #userinfo"() {
         when:
@@ -55,4 +65,59 @@ class DefaultHttpBuildCacheServiceFactoryTest extends Specification {
         credentials.username == 'us'
         credentials.password == 'er:password'
     }
+
+    def "uses default connection pool size"() {
+        when:
+        factory.createBuildCacheService(config(), Stub(BuildCacheServiceFactory.Describer))
+
+        then:
+        1 * httpClientFactory.createClient(_) >> { HttpSettings settings ->
+            assert settings.maxConnPerRoute == DefaultHttpSettings.DEFAULT_MAX_PER_ROUTE
+            assert settings.maxConnTotal == DefaultHttpSettings.DEFAULT_MAX_CONNECTIONS
+            Stub(HttpClient)
+        }
+    }
+
+    @RestoreSystemProperties
+    def "connection pool size per host can be overridden to #value"() {
+        System.setProperty(DefaultHttpBuildCacheServiceFactory.MAX_CONNECTIONS_PROPERTY, value)
+
+        when:
+        factory.createBuildCacheService(config(), Stub(BuildCacheServiceFactory.Describer))
+
+        then:
+        1 * httpClientFactory.createClient(_) >> { HttpSettings settings ->
+            assert settings.maxConnPerRoute == perRoute
+            assert settings.maxConnTotal == total
+            Stub(HttpClient)
+        }
+
+        where:
+        value | perRoute | total
+        "4"   | 4        | DefaultHttpSettings.DEFAULT_MAX_CONNECTIONS
+        "64"  | 64       | DefaultHttpSettings.DEFAULT_MAX_CONNECTIONS
+        "200" | 200      | 200
+    }
+
+    @RestoreSystemProperties
+    def "fails on invalid connection pool size '#value'"() {
+        System.setProperty(DefaultHttpBuildCacheServiceFactory.MAX_CONNECTIONS_PROPERTY, value)
+
+        when:
+        factory.createBuildCacheService(config(), Stub(BuildCacheServiceFactory.Describer))
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == "The value of the 'org.gradle.cache.http.max-connections' system property must be a positive integer, not '${value}'."
+        0 * httpClientFactory._
+
+        where:
+        value << ["0", "-1", "many"]
+    }
+
+    private HttpBuildCache config() {
+        def config = TestUtil.newInstance(HttpBuildCache)
+        config.url = new URI("https://myserver.local/cache/")
+        return config
+    }
 }
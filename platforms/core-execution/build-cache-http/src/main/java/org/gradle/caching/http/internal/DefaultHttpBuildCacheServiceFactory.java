@@ -33,6 +33,7 @@
 import org.gradle.internal.resource.transport.http.SslContextFactory;
 import org.gradle.internal.verifier.HttpRedirectVerifier;
 import org.gradle.internal.verifier.HttpRedirectVerifierFactory;
+import org.jspecify.annotations.Nullable;
 
 import javax.inject.Inject;
 import java.net.URI;
@@ -46,6 +47,12 @@
 public class DefaultHttpBuildCacheServiceFactory implements BuildCacheServiceFactory<HttpBuildCache> {
 
     private static final int MAX_REDIRECTS = Integer.getInteger("org.gradle.cache.http.max-redirects", 10);
+    /**
+     * The maximum number of concurrent connections to a single host.
+     * Stores can be redirected to other hosts, so the total pool size is never lowered below the default.
+     */
+    @VisibleForTesting
+    static final String MAX_CONNECTIONS_PROPERTY = "org.gradle.cache.http.max-connections";
 
     private final SslContextFactory sslContextFactory;
     private final HttpBuildCacheRequestCustomizer requestCustomizer;
@@ -94,6 +101,11 @@ public BuildCacheService createBuildCacheService(HttpBuildCache configuration, D
             .maxRedirects(MAX_REDIRECTS)
             .withRedirectMethodHandlingStrategy(HttpSettings.RedirectMethodHandlingStrategy.ALLOW_FOLLOW_FOR_MUTATIONS)
             .withRedirectVerifier(redirectVerifier);
+        Integer maxConnections = maxConnections();
+        if (maxConnections != null) {
+            builder.maxConnPerRoute(maxConnections)
+                .maxConnTotal(Math.max(maxConnections, DefaultHttpSettings.DEFAULT_MAX_CONNECTIONS));
+        }
         if (allowUntrustedServer) {
             builder.allowUntrustedConnections();
         } else {
@@ -112,6 +124,24 @@ public BuildCacheService createBuildCacheService(HttpBuildCache configuration, D
         return new HttpBuildCacheService(client, noUserInfoUrl, requestCustomizer, useExpectContinue);
     }
 
+    @Nullable
+    private static Integer maxConnections() {
+        String value = System.getProperty(MAX_CONNECTIONS_PROPERTY);
+        if (value == null) {
+            return null;
+        }
+        int maxConnections;
+        try {
+            maxConnections = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            maxConnections = 0;
+        }
+        if (maxConnections <= 0) {
+            throw new IllegalArgumentException(String.format("The value of the '%s' system property must be a positive integer, not '%s'.", MAX_CONNECTIONS_PROPERTY, value));
+        }
+        return maxConnections;
+    }
+
     private HttpRedirectVerifier createRedirectVerifier(URI url, boolean allowInsecureProtocol) {
         return HttpRedirectVerifierFactory
             .create(
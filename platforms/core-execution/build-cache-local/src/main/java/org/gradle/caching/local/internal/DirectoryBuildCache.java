@@ -17,6 +17,7 @@
 package org.gradle.caching.local.internal;
 
 import com.google.common.io.Closer;
+import com.google.common.util.concurrent.Striped;
 import org.apache.commons.io.FileUtils;
 import org.gradle.cache.PersistentCache;
 import org.gradle.internal.UncheckedException;
@@ -36,7 +37,6 @@
 import java.nio.file.StandardCopyOption;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 
 @NullMarked
@@ -46,7 +46,8 @@ public class DirectoryBuildCache implements BuildCacheTempFileStore, Closeable,
     private final BuildCacheTempFileStore tempFileStore;
     private final FileAccessTracker fileAccessTracker;
     private final String failedFileSuffix;
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Locks are striped by key, so that loads and stores of different entries can proceed concurrently
+    private final Striped<ReadWriteLock> locks = Striped.readWriteLock(Runtime.getRuntime().availableProcessors() * 4);
 
     public DirectoryBuildCache(PersistentCache persistentCache, FileAccessTracker fileAccessTracker, String failedFileSuffix) {
         this.persistentCache = persistentCache;
@@ -88,6 +89,7 @@ public void loadLocally(HashCode key, Consumer<? super File> reader) {
         // We need to lock other processes out here because garbage collection can be under way in another process
         persistentCache.withFileLock(() -> {
             // Additional locking necessary because of https://github.com/gradle/gradle/issues/3537
+            ReadWriteLock lock = locks.get(key);
             lock.readLock().lock();
             try {
                 loadInsideLock(key, reader);
@@ -137,6 +139,7 @@ public void storeLocally(HashCode key, File file) {
         // We need to lock other processes out here because garbage collection can be under way in another process
         persistentCache.withFileLock(() -> {
             // Additional locking necessary because of https://github.com/gradle/gradle/issues/3537
+            ReadWriteLock lock = locks.get(key);
             lock.writeLock().lock();
             try {
                 storeInsideLock(key, file);
@@ -26,27 +26,57 @@
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Map;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
+/**
+ * Compresses build cache entries produced by a delegate packer with GZip.
+ *
+ * <p>The compression level only affects packing. Entries packed with any level are
+ * regular GZip streams, so they can be unpacked regardless of the level they were produced with.</p>
+ */
 public class GZipBuildCacheEntryPacker implements BuildCacheEntryPacker {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final BuildCacheEntryPacker delegate;
+    private final int compressionLevel;
 
     public GZipBuildCacheEntryPacker(BuildCacheEntryPacker delegate) {
+        this(delegate, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Creates a packer using the given {@link Deflater} compression level,
+     * ranging from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION},
+     * or {@link Deflater#DEFAULT_COMPRESSION}.
+     */
+    public GZipBuildCacheEntryPacker(BuildCacheEntryPacker delegate, int compressionLevel) {
+        if (compressionLevel != Deflater.DEFAULT_COMPRESSION && (compressionLevel < Deflater.BEST_SPEED || compressionLevel > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException("Invalid compression level for build cache entries: " + compressionLevel);
+        }
         this.delegate = delegate;
+        this.compressionLevel = compressionLevel;
     }
 
     @Override
     public PackResult pack(CacheableEntity entity, Map<String, ? extends FileSystemSnapshot> snapshots, OutputStream output, OriginWriter writeOrigin) throws IOException {
-        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+        try (GZIPOutputStream gzipOutput = new LevelAwareGZIPOutputStream(output, compressionLevel)) {
             return delegate.pack(entity, snapshots, gzipOutput, writeOrigin);
         }
     }
 
     @Override
     public UnpackResult unpack(CacheableEntity entity, InputStream input, OriginReader readOrigin) throws IOException {
-        try (GZIPInputStream gzipInput = new GZIPInputStream(input)) {
+        try (GZIPInputStream gzipInput = new GZIPInputStream(input, BUFFER_SIZE)) {
             return delegate.unpack(entity, gzipInput, readOrigin);
         }
     }
+
+    private static class LevelAwareGZIPOutputStream extends GZIPOutputStream {
+        public LevelAwareGZIPOutputStream(OutputStream output, int compressionLevel) throws IOException {
+            super(output, BUFFER_SIZE);
+            def.setLevel(compressionLevel);
+        }
+    }
 }
@@ -54,6 +54,7 @@
 import org.jspecify.annotations.Nullable;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -61,14 +62,23 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -94,11 +104,22 @@ private interface UnixPermissions {
     private static final String METADATA_PATH = "METADATA";
     private static final Pattern TREE_PATH = Pattern.compile("(missing-)?tree-([^/]+)(?:/(.*))?");
 
+    /**
+     * Files up to this size are read into memory and written to disk on the unpack executor.
+     */
+    private static final int MAX_PARALLEL_FILE_SIZE = 256 * 1024;
+    /**
+     * The maximum amount of file contents held in memory waiting to be written while unpacking a single tree.
+     */
+    private static final int MAX_PENDING_WRITE_BYTES = 16 * 1024 * 1024;
+
     private final TarPackerFileSystemSupport fileSystemSupport;
     private final FilePermissionAccess filePermissionAccess;
     private final StreamHasher streamHasher;
     private final Interner<String> stringInterner;
     private final BufferProvider bufferProvider;
+    @Nullable
+    private final Executor unpackExecutor;
 
     public TarBuildCacheEntryPacker(
         TarPackerFileSystemSupport fileSystemSupport,
@@ -106,12 +127,29 @@ public TarBuildCacheEntryPacker(
         StreamHasher streamHasher,
         Interner<String> stringInterner,
         BufferProvider bufferProvider
+    ) {
+        this(fileSystemSupport, filePermissionAccess, streamHasher, stringInterner, bufferProvider, null);
+    }
+
+    /**
+     * Creates a packer that writes and hashes the files of unpacked directory trees on the given executor.
+     * The archive itself is still read sequentially, and the resulting snapshots are the same as when unpacking serially.
+     * When no executor is given, all files are written on the calling thread.
+     */
+    public TarBuildCacheEntryPacker(
+        TarPackerFileSystemSupport fileSystemSupport,
+        FilePermissionAccess filePermissionAccess,
+        StreamHasher streamHasher,
+        Interner<String> stringInterner,
+        BufferProvider bufferProvider,
+        @Nullable Executor unpackExecutor
     ) {
         this.fileSystemSupport = fileSystemSupport;
         this.filePermissionAccess = filePermissionAccess;
         this.streamHasher = streamHasher;
         this.stringInterner = stringInterner;
         this.bufferProvider = bufferProvider;
+        this.unpackExecutor = unpackExecutor;
     }
 
     @Override
@@ -267,7 +305,7 @@ private TarArchiveEntry unpackTree(String treeName, TreeType treeType, File tree
         return unpackDirectoryTree(input, rootEntry, snapshots, entries, treeRoot, treeName);
     }
 
-    private RegularFileSnapshot unpackFile(TarArchiveInputStream input, TarArchiveEntry entry, File file, String fileName) throws IOException {
+    private RegularFileSnapshot unpackFile(InputStream input, TarArchiveEntry entry, File file, String fileName) throws IOException {
         try (CountingOutputStream output = new CountingOutputStream(new FileOutputStream(file))) {
             HashCode hash = streamHasher.hashCopy(input, output);
             chmodUnpackedFile(entry, file);
@@ -284,29 +322,41 @@ private TarArchiveEntry unpackDirectoryTree(TarArchiveInputStream input, TarArch
         DirectorySnapshotBuilder builder = MerkleDirectorySnapshotBuilder.noSortingRequired();
         builder.enterDirectory(DIRECT, stringInterner.intern(treeRoot.getAbsolutePath()), stringInterner.intern(treeRoot.getName()), INCLUDE_EMPTY_DIRS);
 
-        TarArchiveEntry entry;
-
-        while ((entry = input.getNextEntry()) != null) {
-            boolean isDir = entry.isDirectory();
-            boolean outsideOfRoot = parser.nextPath(safeEntryName(entry), isDir, builder::leaveDirectory);
-            if (outsideOfRoot) {
-                break;
-            }
-            entries.incrementAndGet();
+        // Files may still be written in the background while we read the archive,
+        // so we record the builder events and replay them once all writes have finished
+        List<Consumer<DirectorySnapshotBuilder>> builderEvents = new ArrayList<>();
+        List<CompletableFuture<?>> pendingWrites = new ArrayList<>();
+        Semaphore pendingWriteBytes = new Semaphore(MAX_PENDING_WRITE_BYTES);
 
-            File file = new File(treeRoot, parser.getRelativePath());
-            if (isDir) {
-                FileUtils.forceMkdir(file);
-                chmodUnpackedFile(entry, file);
-                String internedAbsolutePath = stringInterner.intern(file.getAbsolutePath());
-                String internedName = stringInterner.intern(parser.getName());
-                builder.enterDirectory(DIRECT, internedAbsolutePath, internedName, INCLUDE_EMPTY_DIRS);
-            } else {
-                RegularFileSnapshot fileSnapshot = unpackFile(input, entry, file, parser.getName());
-                builder.visitLeafElement(fileSnapshot);
+        TarArchiveEntry entry;
+        try {
+            while ((entry = input.getNextEntry()) != null) {
+                boolean isDir = entry.isDirectory();
+                boolean outsideOfRoot = parser.nextPath(safeEntryName(entry), isDir, () -> builderEvents.add(DirectorySnapshotBuilder::leaveDirectory));
+                if (outsideOfRoot) {
+                    break;
+                }
+                entries.incrementAndGet();
+
+                File file = new File(treeRoot, parser.getRelativePath());
+                if (isDir) {
+                    FileUtils.forceMkdir(file);
+                    chmodUnpackedFile(entry, file);
+                    String internedAbsolutePath = stringInterner.intern(file.getAbsolutePath());
+                    String internedName = stringInterner.intern(parser.getName());
+                    builderEvents.add(directoryBuilder -> directoryBuilder.enterDirectory(DIRECT, internedAbsolutePath, internedName, INCLUDE_EMPTY_DIRS));
+                } else {
+                    Supplier<RegularFileSnapshot> fileSnapshot = unpackFileInDirectoryTree(input, entry, file, parser.getName(), pendingWrites, pendingWriteBytes);
+                    builderEvents.add(directoryBuilder -> directoryBuilder.visitLeafElement(fileSnapshot.get()));
+                }
             }
+        } catch (Throwable t) {
+            awaitPendingWritesQuietly(pendingWrites);
+            throw t;
         }
+        awaitPendingWrites(pendingWrites);
 
+        builderEvents.forEach(event -> event.accept(builder));
         parser.exitToRoot(builder::leaveDirectory);
         builder.leaveDirectory();
 
@@ -314,6 +364,65 @@ private TarArchiveEntry unpackDirectoryTree(TarArchiveInputStream input, TarArch
         return entry;
     }
 
+    private Supplier<RegularFileSnapshot> unpackFileInDirectoryTree(TarArchiveInputStream input, TarArchiveEntry entry, File file, String fileName, List<CompletableFuture<?>> pendingWrites, Semaphore pendingWriteBytes) throws IOException {
+        Executor executor = unpackExecutor;
+        long size = entry.getSize();
+        if (executor == null || size > MAX_PARALLEL_FILE_SIZE) {
+            RegularFileSnapshot fileSnapshot = unpackFile(input, entry, file, fileName);
+            return () -> fileSnapshot;
+        }
+
+        int permits = (int) size;
+        pendingWriteBytes.acquireUninterruptibly(permits);
+        byte[] content;
+        try {
+            content = IOUtils.toByteArray(input, size);
+        } catch (IOException | RuntimeException e) {
+            pendingWriteBytes.release(permits);
+            throw e;
+        }
+        CompletableFuture<RegularFileSnapshot> pendingWrite = CompletableFuture.supplyAsync(() -> {
+            try {
+                return unpackFile(new ByteArrayInputStream(content), entry, file, fileName);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                pendingWriteBytes.release(permits);
+            }
+        }, executor);
+        pendingWrites.add(pendingWrite);
+        return pendingWrite::join;
+    }
+
+    private static void awaitPendingWrites(List<CompletableFuture<?>> pendingWrites) throws IOException {
+        Throwable failure = null;
+        for (CompletableFuture<?> pendingWrite : pendingWrites) {
+            try {
+                pendingWrite.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+        if (failure instanceof UncheckedIOException) {
+            throw ((UncheckedIOException) failure).getCause();
+        }
+        if (failure != null) {
+            throw UncheckedException.throwAsUncheckedException(failure);
+        }
+    }
+
+    private static void awaitPendingWritesQuietly(List<CompletableFuture<?>> pendingWrites) {
+        for (CompletableFuture<?> pendingWrite : pendingWrites) {
+            try {
+                pendingWrite.join();
+            } catch (CompletionException ignored) {
+                // The original failure is reported instead
+            }
+        }
+    }
+
     /**
      * Returns a safe name for the name of a tar archive entry.
      *
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.caching.internal.packaging.impl
+
+import org.gradle.caching.internal.CacheableEntity
+import org.gradle.caching.internal.origin.OriginReader
+import org.gradle.caching.internal.origin.OriginWriter
+import org.gradle.caching.internal.packaging.BuildCacheEntryPacker
+import spock.lang.Specification
+
+import java.util.zip.Deflater
+
+class GZipBuildCacheEntryPackerTest extends Specification {
+    def delegate = Mock(BuildCacheEntryPacker)
+    def entity = Mock(CacheableEntity)
+    def content = ("some content " * 1000).bytes
+
+    def "entries packed with level #level can be unpacked"() {
+        def packer = new GZipBuildCacheEntryPacker(delegate, level)
+        def output = new ByteArrayOutputStream()
+        byte[] unpacked = null
+
+        when:
+        packer.pack(entity, [:], output, Mock(OriginWriter))
+
+        then:
+        1 * delegate.pack(entity, [:], _, _) >> { args ->
+            (args[2] as OutputStream).write(content)
+            new BuildCacheEntryPacker.PackResult(1)
+        }
+        output.size() < content.length
+
+        when:
+        new GZipBuildCacheEntryPacker(delegate).unpack(entity, new ByteArrayInputStream(output.toByteArray()), Mock(OriginReader))
+
+        then:
+        1 * delegate.unpack(entity, _, _) >> { args ->
+            unpacked = (args[1] as InputStream).bytes
+            null
+        }
+        unpacked == content
+
+        where:
+        level << [Deflater.DEFAULT_COMPRESSION, Deflater.BEST_SPEED, Deflater.BEST_COMPRESSION]
+    }
+
+    def "rejects invalid compression level"() {
+        when:
+        new GZipBuildCacheEntryPacker(delegate, 10)
+
+        then:
+        def ex = thrown IllegalArgumentException
+        ex.message == "Invalid compression level for build cache entries: 10"
+    }
+}
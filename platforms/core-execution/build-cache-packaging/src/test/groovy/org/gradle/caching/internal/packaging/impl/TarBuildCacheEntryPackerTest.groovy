@@ -19,11 +19,13 @@ package org.gradle.caching.internal.packaging.impl
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream
 import org.gradle.api.internal.file.TestFiles
+import org.gradle.internal.file.BufferProvider
 import org.gradle.internal.file.Deleter
 import org.gradle.internal.nativeintegration.filesystem.FileSystem
 import org.gradle.test.precondition.Requires
 import org.gradle.test.preconditions.OsTestPreconditions
 
+import java.util.concurrent.Executors
 
 import static org.gradle.internal.file.TreeType.DIRECTORY
 import static org.gradle.internal.file.TreeType.FILE
@@ -66,6 +68,38 @@ class TarBuildCacheEntryPackerTest extends AbstractTarBuildCacheEntryPackerSpec
         result.entries == 4
     }
 
+    def "unpacking files in parallel produces the same snapshot as unpacking serially"() {
+        def sourceOutputDir = temporaryFolder.file("source").createDir()
+        10.times { dirIndex ->
+            def subDir = sourceOutputDir.file("dir-$dirIndex").createDir()
+            20.times { fileIndex ->
+                subDir.file("file-${fileIndex}.txt") << "content ${dirIndex}/${fileIndex}\n" * (fileIndex * 100)
+            }
+        }
+        sourceOutputDir.file("dir-0/empty").createDir()
+        def output = new ByteArrayOutputStream()
+        pack output, prop(DIRECTORY, sourceOutputDir)
+        def executor = Executors.newFixedThreadPool(4)
+        def parallelPacker = new TarBuildCacheEntryPacker(fileSystemSupport, filePermissionAccess, streamHasher, stringInterner, Stub(BufferProvider) {
+            getBuffer() >> new byte[4096]
+        }, executor)
+
+        def targetOutputDir = temporaryFolder.file("target")
+
+        when:
+        def serialResult = unpack new ByteArrayInputStream(output.toByteArray()), prop(DIRECTORY, targetOutputDir)
+        def parallelResult = parallelPacker.unpack(entity(prop(DIRECTORY, targetOutputDir)), new ByteArrayInputStream(output.toByteArray()), readOrigin)
+
+        then:
+        parallelResult.entries == serialResult.entries
+        parallelResult.snapshots["test"].hash == serialResult.snapshots["test"].hash
+        targetOutputDir.file("dir-3/file-7.txt").text == "content 3/7\n" * 700
+        targetOutputDir.file("dir-0/empty").directory
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
     def "can pack tree with missing #type (pre-existing as: #preExistsAs)"() {
         def sourceOutput = temporaryFolder.file("source")
         def targetOutput = temporaryFolder.file("target")
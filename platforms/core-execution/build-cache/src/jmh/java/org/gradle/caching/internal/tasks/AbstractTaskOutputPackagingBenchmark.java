@@ -35,6 +35,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.zip.Deflater;
 
 @Fork(1)
 @Warmup(iterations = 3)
@@ -55,6 +56,9 @@ public abstract class AbstractTaskOutputPackagingBenchmark {
         .put("tar.small", new CommonsTarPacker(2))
         .put("tar.large", new CommonsTarPacker(64))
         .put("tar.gz", new GzipPacker(new CommonsTarPacker(4)))
+        .put("tar.gz.fast", new GzipPacker(new CommonsTarPacker(4), Deflater.BEST_SPEED))
+        .put("tar.gz.best", new GzipPacker(new CommonsTarPacker(4), Deflater.BEST_COMPRESSION))
+        .put("tar.zstd", new ZstdPacker(new CommonsTarPacker(4)))
         .put("zip", new ZipPacker(4))
         .build();
 
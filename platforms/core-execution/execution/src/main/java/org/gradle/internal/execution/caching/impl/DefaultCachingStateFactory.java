@@ -23,6 +23,7 @@
 import org.gradle.internal.execution.caching.CachingStateFactory;
 import org.gradle.internal.execution.history.BeforeExecutionState;
 import org.gradle.internal.hash.HashCode;
+import org.gradle.internal.hash.HashFunction;
 import org.gradle.internal.hash.Hasher;
 import org.gradle.internal.hash.Hashing;
 import org.slf4j.Logger;
@@ -49,6 +50,12 @@ public final CachingState createCachingState(BeforeExecutionState beforeExecutio
     public HashCode calculateCacheKey(BeforeExecutionState beforeExecutionState) {
         final Hasher cacheKeyHasher = Hashing.newHasher();
 
+        HashFunction hashFunction = Hashing.defaultFunction();
+        if (hashFunction != Hashing.md5()) {
+            // Keep the keys of clients using different hash functions apart, even if the hashes happen to collide
+            cacheKeyHasher.putString(hashFunction.getAlgorithm());
+        }
+
         logger.warn("Appending implementation to build cache key: {}",
             beforeExecutionState.getImplementation());
         beforeExecutionState.getImplementation().appendToHasher(cacheKeyHasher);
@@ -22,10 +22,13 @@
 import org.gradle.cache.PersistentCache;
 import org.gradle.cache.internal.InMemoryCacheDecoratorFactory;
 import org.gradle.cache.scopes.ScopedCacheBuilderFactory;
+import org.gradle.internal.hash.HashFunction;
+import org.gradle.internal.hash.Hashing;
 import org.gradle.internal.service.scopes.Scope;
 import org.gradle.internal.service.scopes.ServiceScope;
 
 import java.io.Closeable;
+import java.util.Locale;
 
 @ServiceScope({Scope.UserHome.class, Scope.BuildSession.class})
 public class CrossBuildFileHashCache implements Closeable {
@@ -35,12 +38,21 @@ public class CrossBuildFileHashCache implements Closeable {
 
     public CrossBuildFileHashCache(ScopedCacheBuilderFactory cacheBuilderFactory, InMemoryCacheDecoratorFactory inMemoryCacheDecoratorFactory, Kind cacheKind) {
         this.inMemoryCacheDecoratorFactory = inMemoryCacheDecoratorFactory;
-        cache = cacheBuilderFactory.createCacheBuilder(cacheKind.cacheId)
+        cache = cacheBuilderFactory.createCacheBuilder(cacheIdFor(cacheKind))
             .withDisplayName(cacheKind.description)
             .withInitialLockMode(FileLockManager.LockMode.OnDemand)
             .open();
     }
 
+    private static String cacheIdFor(Kind cacheKind) {
+        // File hashes are calculated with the default hash function, so hashes calculated with different functions must not be mixed
+        HashFunction defaultFunction = Hashing.defaultFunction();
+        if (cacheKind == Kind.FILE_HASHES && defaultFunction != Hashing.md5()) {
+            return cacheKind.getCacheId() + "-" + defaultFunction.getAlgorithm().toLowerCase(Locale.ROOT);
+        }
+        return cacheKind.getCacheId();
+    }
+
     public <K, V> IndexedCache<K, V> createIndexedCache(IndexedCacheParameters<K, V> parameters, int maxEntriesToKeepInMemory, boolean cacheInMemoryForShortLivedProcesses) {
         return cache.createIndexedCache(parameters
             .withCacheDecorator(inMemoryCacheDecoratorFactory.decorator(maxEntriesToKeepInMemory, cacheInMemoryForShortLivedProcesses))
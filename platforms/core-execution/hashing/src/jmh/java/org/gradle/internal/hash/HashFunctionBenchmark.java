@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.hash;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class HashFunctionBenchmark {
+
+    Random random = new Random(1234L);
+
+    @Param({"16", "1024", "65536", "1048576"})
+    int hashSize;
+
+    @Param({"MD5", "MURMUR3-128"})
+    String function;
+
+    byte[] input;
+    HashFunction hashFunction;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        input = new byte[hashSize];
+        random.nextBytes(input);
+        hashFunction = Hashing.selectDefaultFunction(function);
+    }
+
+    @Benchmark
+    public HashCode primitiveHasher() {
+        PrimitiveHasher hasher = hashFunction.newPrimitiveHasher();
+        hasher.putBytes(input);
+        return hasher.hash();
+    }
+
+    @Benchmark
+    public HashCode stream() throws IOException {
+        return hashFunction.hashStream(new ByteArrayInputStream(input));
+    }
+}
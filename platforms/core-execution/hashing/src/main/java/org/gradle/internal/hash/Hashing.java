@@ -48,7 +48,24 @@ private Hashing() {
 
     private static final HashFunction SHA512 = MessageDigestHashFunction.of("SHA-512");
 
-    private static final HashFunction DEFAULT = MD5;
+    private static final HashFunction MURMUR3_128 = new GuavaHashFunction("MURMUR3-128", com.google.common.hash.Hashing.murmur3_128());
+
+    /**
+     * System property to select the default hash function, see {@link #defaultFunction()}.
+     */
+    public static final String DEFAULT_FUNCTION_PROPERTY = "org.gradle.internal.hash.default-function";
+
+    private static final HashFunction DEFAULT = selectDefaultFunction(System.getProperty(DEFAULT_FUNCTION_PROPERTY));
+
+    static HashFunction selectDefaultFunction(@Nullable String algorithm) {
+        if (algorithm == null || algorithm.equalsIgnoreCase(MD5.getAlgorithm())) {
+            return MD5;
+        }
+        if (algorithm.equalsIgnoreCase(MURMUR3_128.getAlgorithm())) {
+            return MURMUR3_128;
+        }
+        throw new IllegalArgumentException(String.format("Unsupported default hash function '%s' set via %s, supported values are: %s, %s", algorithm, DEFAULT_FUNCTION_PROPERTY, MD5.getAlgorithm(), MURMUR3_128.getAlgorithm()));
+    }
 
     /**
      * Returns a new {@link Hasher} based on the default hashing implementation.
@@ -120,6 +137,9 @@ public static HashCode hashHashable(Hashable hashable) {
 
     /**
      * The default hashing function.
+     *
+     * <p>This is MD5 unless a different function has been selected via the {@value #DEFAULT_FUNCTION_PROPERTY} system property.
+     * All selectable functions produce 128-bit hashes.</p>
      */
     public static HashFunction defaultFunction() {
         return DEFAULT;
@@ -153,35 +173,20 @@ public static HashFunction sha512() {
         return SHA512;
     }
 
-    private static abstract class MessageDigestHashFunction implements HashFunction {
+    /**
+     * 128-bit MurmurHash3 hashing function. This is a non-cryptographic hash function that is considerably faster than MD5.
+     */
+    public static HashFunction murmur3_128() {
+        return MURMUR3_128;
+    }
+
+    private static abstract class AbstractHashFunction implements HashFunction {
         private final int hexDigits;
 
-        public MessageDigestHashFunction(int hashBits) {
+        public AbstractHashFunction(int hashBits) {
             this.hexDigits = hashBits / 4;
         }
 
-        public static MessageDigestHashFunction of(String algorithm) {
-            MessageDigest prototype;
-            try {
-                prototype = MessageDigest.getInstance(algorithm);
-            } catch (NoSuchAlgorithmException e) {
-                throw new IllegalArgumentException("Cannot instantiate digest algorithm: " + algorithm);
-            }
-            int hashBits = prototype.getDigestLength() * 8;
-            try {
-                Object ignored = prototype.clone();
-                return new CloningMessageDigestHashFunction(prototype, hashBits);
-            } catch (CloneNotSupportedException e) {
-                return new RegularMessageDigestHashFunction(algorithm, hashBits);
-            }
-        }
-
-        @Override
-        public PrimitiveHasher newPrimitiveHasher() {
-            MessageDigest digest = createDigest();
-            return new MessageDigestHasher(digest);
-        }
-
         @Override
         public Hasher newHasher() {
             return new DefaultHasher(newPrimitiveHasher());
@@ -219,8 +224,6 @@ private HashingOutputStream primitiveStreamHasher() {
             return new HashingOutputStream(this, ByteStreams.nullOutputStream());
         }
 
-        protected abstract MessageDigest createDigest();
-
         @Override
         public int getHexDigits() {
             return hexDigits;
@@ -232,6 +235,37 @@ public String toString() {
         }
     }
 
+    private static abstract class MessageDigestHashFunction extends AbstractHashFunction {
+
+        public MessageDigestHashFunction(int hashBits) {
+            super(hashBits);
+        }
+
+        public static MessageDigestHashFunction of(String algorithm) {
+            MessageDigest prototype;
+            try {
+                prototype = MessageDigest.getInstance(algorithm);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalArgumentException("Cannot instantiate digest algorithm: " + algorithm);
+            }
+            int hashBits = prototype.getDigestLength() * 8;
+            try {
+                Object ignored = prototype.clone();
+                return new CloningMessageDigestHashFunction(prototype, hashBits);
+            } catch (CloneNotSupportedException e) {
+                return new RegularMessageDigestHashFunction(algorithm, hashBits);
+            }
+        }
+
+        @Override
+        public PrimitiveHasher newPrimitiveHasher() {
+            MessageDigest digest = createDigest();
+            return new MessageDigestHasher(digest);
+        }
+
+        protected abstract MessageDigest createDigest();
+    }
+
     private static class CloningMessageDigestHashFunction extends MessageDigestHashFunction {
         private final MessageDigest prototype;
 
@@ -278,6 +312,94 @@ protected MessageDigest createDigest() {
         }
     }
 
+    private static class GuavaHashFunction extends AbstractHashFunction {
+        private final String algorithm;
+        private final com.google.common.hash.HashFunction delegate;
+
+        public GuavaHashFunction(String algorithm, com.google.common.hash.HashFunction delegate) {
+            super(delegate.bits());
+            this.algorithm = algorithm;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getAlgorithm() {
+            return algorithm;
+        }
+
+        @Override
+        public PrimitiveHasher newPrimitiveHasher() {
+            return new GuavaHasher(delegate.newHasher());
+        }
+    }
+
+    private static class GuavaHasher implements PrimitiveHasher {
+        private com.google.common.hash.@Nullable Hasher hasher;
+
+        public GuavaHasher(com.google.common.hash.Hasher hasher) {
+            this.hasher = hasher;
+        }
+
+        private com.google.common.hash.Hasher getHasher() {
+            if (hasher == null) {
+                throw new IllegalStateException("Cannot reuse hasher!");
+            }
+            return hasher;
+        }
+
+        @Override
+        public void putByte(byte b) {
+            getHasher().putByte(b);
+        }
+
+        @Override
+        public void putBytes(byte[] bytes) {
+            getHasher().putBytes(bytes);
+        }
+
+        @Override
+        public void putBytes(byte[] bytes, int off, int len) {
+            getHasher().putBytes(bytes, off, len);
+        }
+
+        @Override
+        public void putInt(int value) {
+            getHasher().putInt(value);
+        }
+
+        @Override
+        public void putLong(long value) {
+            getHasher().putLong(value);
+        }
+
+        @Override
+        public void putDouble(double value) {
+            getHasher().putLong(Double.doubleToRawLongBits(value));
+        }
+
+        @Override
+        public void putBoolean(boolean value) {
+            putByte((byte) (value ? 1 : 0));
+        }
+
+        @Override
+        public void putString(CharSequence value) {
+            getHasher().putString(value, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void putHash(HashCode hashCode) {
+            hashCode.appendToHasher(this);
+        }
+
+        @Override
+        public HashCode hash() {
+            byte[] bytes = getHasher().hash().asBytes();
+            hasher = null;
+            return HashCode.fromBytes(bytes, SAFE_TO_REUSE_BYTES);
+        }
+    }
+
     private static class MessageDigestHasher implements PrimitiveHasher {
         private final ByteBuffer buffer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
         private @Nullable MessageDigest digest;
@@ -126,4 +126,34 @@ class HashingTest extends Specification {
         }
         hasher.hash()
     }
+
+    def 'murmur3 hash function produces the same hashes as Guava'() {
+        given:
+        def bytes = ('a'..'z').join().bytes
+
+        expect:
+        Hashing.murmur3_128().hashBytes(bytes).toByteArray() == com.google.common.hash.Hashing.murmur3_128().hashBytes(bytes).asBytes()
+        Hashing.murmur3_128().hashBytes(bytes) != Hashing.md5().hashBytes(bytes)
+        Hashing.murmur3_128().hexDigits == Hashing.md5().hexDigits
+    }
+
+    def 'can select default hash function #algorithm'() {
+        expect:
+        Hashing.selectDefaultFunction(algorithm) == expected
+
+        where:
+        algorithm     | expected
+        null          | Hashing.md5()
+        "MD5"         | Hashing.md5()
+        "murmur3-128" | Hashing.murmur3_128()
+    }
+
+    def 'cannot select unsupported default hash function'() {
+        when:
+        Hashing.selectDefaultFunction("SHA-1")
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == "Unsupported default hash function 'SHA-1' set via org.gradle.internal.hash.default-function, supported values are: MD5, MURMUR3-128"
+    }
 }
@@ -20,10 +20,94 @@ import org.gradle.internal.file.FileMetadata.AccessType
 import org.gradle.internal.file.impl.DefaultFileMetadata
 import org.gradle.internal.hash.TestHashCodes
 
+import static org.gradle.internal.file.FileMetadata.AccessType.DIRECT
+import static org.gradle.internal.file.FileMetadata.AccessType.VIA_SYMLINK
+
 class RegularFileSnapshotTest extends AbstractFileSystemLeafSnapshotTest {
 
     @Override
     protected FileSystemLeafSnapshot createInitialRootNode(String absolutePath, AccessType accessType) {
         return new RegularFileSnapshot(absolutePath, PathUtil.getFileName(absolutePath), TestHashCodes.hashCodeFrom(1235), DefaultFileMetadata.file(1, 2, accessType))
     }
+
+    def "metadata and length are retained when accessed #accessType"() {
+        def metadata = DefaultFileMetadata.file(1234, 5678, accessType)
+
+        when:
+        def snapshot = new RegularFileSnapshot("/some/file.txt", "file.txt", TestHashCodes.hashCodeFrom(1235), metadata)
+
+        then:
+        snapshot.metadata == metadata
+        snapshot.metadata.lastModified == 1234
+        snapshot.metadata.length == 5678
+        snapshot.metadata.accessType == accessType
+        snapshot.length == 5678
+        snapshot.accessType == accessType
+
+        where:
+        accessType << [DIRECT, VIA_SYMLINK]
+    }
+
+    def "relocated snapshot keeps content hash and metadata"() {
+        def sourceFile = temporaryFolder.file("source.txt")
+        def targetFile = temporaryFolder.file("target.txt")
+        def metadata = DefaultFileMetadata.file(1234, 5678, DIRECT)
+        def sourceSnapshot = new RegularFileSnapshot(sourceFile.absolutePath, sourceFile.name, TestHashCodes.hashCodeFrom(1235), metadata)
+
+        when:
+        def targetSnapshot = (RegularFileSnapshot) sourceSnapshot.relocate(targetFile.absolutePath, stringInterner).get()
+
+        then:
+        targetSnapshot.hash == sourceSnapshot.hash
+        targetSnapshot.metadata == metadata
+        targetSnapshot.length == 5678
+        targetSnapshot.isContentAndMetadataUpToDate(sourceSnapshot)
+        sourceSnapshot.isContentAndMetadataUpToDate(targetSnapshot)
+    }
+
+    def "snapshot with same content and metadata is up-to-date"() {
+        def snapshot = regularFile(1235, 1234, 5678, DIRECT)
+        def other = regularFile(1235, 1234, 5678, DIRECT)
+
+        expect:
+        snapshot.isContentUpToDate(other)
+        snapshot.isContentAndMetadataUpToDate(other)
+    }
+
+    def "snapshot with different #difference is only content up-to-date"() {
+        def snapshot = regularFile(1235, 1234, 5678, DIRECT)
+
+        expect:
+        snapshot.isContentUpToDate(other)
+        !snapshot.isContentAndMetadataUpToDate(other)
+        !other.isContentAndMetadataUpToDate(snapshot)
+
+        where:
+        difference      | other
+        "last modified" | regularFile(1235, 1235, 5678, DIRECT)
+        "length"        | regularFile(1235, 1234, 5679, DIRECT)
+        "access type"   | regularFile(1235, 1234, 5678, VIA_SYMLINK)
+    }
+
+    def "snapshot with different content is not up-to-date"() {
+        def snapshot = regularFile(1235, 1234, 5678, DIRECT)
+        def other = regularFile(1236, 1234, 5678, DIRECT)
+
+        expect:
+        !snapshot.isContentUpToDate(other)
+        !snapshot.isContentAndMetadataUpToDate(other)
+    }
+
+    def "snapshot is not up-to-date with a missing file"() {
+        def snapshot = regularFile(1235, 1234, 5678, DIRECT)
+        def other = new MissingFileSnapshot("/some/file.txt", DIRECT)
+
+        expect:
+        !snapshot.isContentUpToDate(other)
+        !snapshot.isContentAndMetadataUpToDate(other)
+    }
+
+    private static RegularFileSnapshot regularFile(int hash, long lastModified, long length, AccessType accessType) {
+        return new RegularFileSnapshot("/some/file.txt", "file.txt", TestHashCodes.hashCodeFrom(hash), DefaultFileMetadata.file(lastModified, length, accessType))
+    }
 }
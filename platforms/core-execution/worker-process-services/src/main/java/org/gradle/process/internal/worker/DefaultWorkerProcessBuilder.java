@@ -18,6 +18,8 @@
 
 import org.gradle.api.Action;
 import org.gradle.api.logging.LogLevel;
+import org.gradle.internal.hash.HashFunction;
+import org.gradle.internal.hash.Hashing;
 import org.gradle.internal.id.IdGenerator;
 import org.gradle.internal.jvm.JpmsConfiguration;
 import org.gradle.internal.jvm.Jvm;
@@ -260,6 +262,12 @@ public WorkerProcess build() {
             javaCommand.jvmArgs(JpmsConfiguration.forWorkerProcesses(javaVersionMajor, nativeServicesMode.isPotentiallyEnabled()));
         }
 
+        HashFunction hashFunction = Hashing.defaultFunction();
+        if (hashFunction != Hashing.md5()) {
+            // Hashes computed by the worker need to match those computed by the build process
+            javaCommand.systemProperty(Hashing.DEFAULT_FUNCTION_PROPERTY, hashFunction.getAlgorithm());
+        }
+
         javaCommand.args("'" + displayName + "'");
         if (javaCommand.getMaxHeapSize() == null) {
             javaCommand.setMaxHeapSize("512m");
@@ -25,6 +25,7 @@ import spock.lang.Specification
 
 import java.nio.charset.Charset
 
+import static org.gradle.internal.hash.Hashing.DEFAULT_FUNCTION_PROPERTY
 import static org.gradle.process.internal.JvmOptions.FILE_ENCODING_KEY
 import static org.gradle.process.internal.JvmOptions.JAVA_IO_TMPDIR_KEY
 import static org.gradle.process.internal.JvmOptions.JAVA_SECURITY_PROPERTIES_KEY
@@ -193,6 +194,7 @@ class JvmOptionsTest extends Specification {
         "ssl truststore path"     | SSL_TRUSTSTORE_KEY              | "-D${SSL_TRUSTSTORE_KEY}=truststore/path"
         "ssl truststore password" | SSL_TRUSTPASSWORD_KEY           | "-D${SSL_TRUSTPASSWORD_KEY}=secret"
         "ssl truststore type"     | SSL_TRUSTSTORETYPE_KEY          | "-D${SSL_TRUSTSTORETYPE_KEY}=jks"
+        "default hash function"   | DEFAULT_FUNCTION_PROPERTY       | "-D${DEFAULT_FUNCTION_PROPERTY}=MURMUR3-128"
     }
 
     def "#propDescr can be set as systemproperty"() {
@@ -92,6 +92,9 @@ public class PomReader implements PomParent {
     private static final String PROFILE_ACTIVATION_PROPERTY = "property";
     private static final byte[] M2_ENTITIES_RESOURCE;
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY;
+    // Creating a document builder is relatively expensive compared to parsing a typical POM, so each thread reuses one.
+    // Document builders are not thread safe, and are reset after each parse.
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = ThreadLocal.withInitial(PomReader::newDocBuilder);
 
     static {
         byte[] bytes;
@@ -238,13 +241,9 @@ public String toString() {
         return projectElement.getOwnerDocument().getDocumentURI();
     }
 
-    private static DocumentBuilder getDocBuilder(EntityResolver entityResolver) {
+    private static DocumentBuilder newDocBuilder() {
         try {
-            DocumentBuilder docBuilder = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
-            if (entityResolver != null) {
-                docBuilder.setEntityResolver(entityResolver);
-            }
-            return docBuilder;
+            return DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
         } catch (ParserConfigurationException e) {
             throw UncheckedException.throwAsUncheckedException(e);
         }
@@ -257,7 +256,14 @@ private static Document parseToDom(InputStream stream, String systemId) throws I
         Thread.currentThread().setContextClassLoader(ClassLoaderUtils.getPlatformClassLoader());
         try {
             InputStream dtdStream = new AddDTDFilterInputStream(stream);
-            return getDocBuilder(M2_ENTITY_RESOLVER).parse(dtdStream, systemId);
+            DocumentBuilder docBuilder = DOCUMENT_BUILDER.get();
+            // The entity resolver is cleared by reset(), so set it for every parse
+            docBuilder.setEntityResolver(M2_ENTITY_RESOLVER);
+            try {
+                return docBuilder.parse(dtdStream, systemId);
+            } finally {
+                docBuilder.reset();
+            }
         } finally {
             Thread.currentThread().setContextClassLoader(original);
         }
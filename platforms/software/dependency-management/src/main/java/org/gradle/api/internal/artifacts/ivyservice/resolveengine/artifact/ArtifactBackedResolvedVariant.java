@@ -158,8 +158,8 @@ public void startFinalization(BuildOperationQueue<RunnableBuildOperation> action
                     // Resolve it now
                     artifact.getFileSource().finalizeIfNotAlready();
                 } else {
-                    // Resolve it later
-                    actions.add(new DownloadArtifactFile(artifact));
+                    // Resolve it later. Downloading is IO bound, so allow more parallelism than there are worker leases.
+                    actions.addUnconstrained(new DownloadArtifactFile(artifact));
                 }
             }
         }
@@ -63,10 +63,10 @@ public void visit(ArtifactVisitor visitor) {
             // Start preparing the result
             StartVisitAction visitAction = new StartVisitAction(visitor);
 
-            // TODO: Downloads here should use `BuildOperationQueue#addUnconstrained`, so that we can fetch
-            // more artifacts in parallel than there are worker leases. This is blocked on classifying the
-            // work submitted by `Artifact#startFinalization`: artifact transforms in this set that have not
-            // yet executed run here on-demand, and being CPU-bound they must stay lease-constrained.
+            // Each `Artifacts#startFinalization` implementation classifies the work it submits: artifact downloads
+            // are IO-bound and are added using `BuildOperationQueue#addUnconstrained`, so that we can fetch more
+            // artifacts in parallel than there are worker leases, whereas artifact transforms in this set that have
+            // not yet executed run here on-demand and, being CPU-bound, stay lease-constrained.
             buildOperationProcessor.runAll(visitAction);
 
             // Now visit the result in order
@@ -90,6 +90,50 @@ class PomReaderTest extends AbstractPomReaderTest {
         e.cause.message.contains("Already seen doctype")
     }
 
+    def "parses consecutive POMs on the same thread, resolving m2 entities in each"() {
+        when:
+        def first = createPomReader('first.xml', """
+<project>
+    <modelVersion>4.0.0</modelVersion>
+    <groupId>group-one</groupId>
+    <artifactId>artifact-one</artifactId>
+    <version>version&copy;one</version>
+</project>
+""")
+
+        then:
+        first.groupId == 'group-one'
+        first.version == 'version\u00A9one'
+
+        when:
+        createPomReader('malformed.xml', """
+<project>
+    <modelVersion>4.0.0</modelVersion>
+    <groupId>group-two
+</project>
+""")
+
+        then:
+        thrown(MetaDataParseException)
+
+        when:
+        def second = createPomReader('second.xml', """
+<project>
+    <modelVersion>4.0.0</modelVersion>
+    <groupId>group-three</groupId>
+    <artifactId>artifact-three</artifactId>
+    <version>version&eacute;three</version>
+</project>
+""")
+
+        then:
+        // Neither the content of the previous documents nor a missing entity resolver leaks into this parse
+        second.groupId == 'group-three'
+        second.artifactId == 'artifact-three'
+        second.version == 'version\u00E9three'
+        !second.hasParent()
+    }
+
     def "parse simple POM"() {
         when:
         pomFile << """
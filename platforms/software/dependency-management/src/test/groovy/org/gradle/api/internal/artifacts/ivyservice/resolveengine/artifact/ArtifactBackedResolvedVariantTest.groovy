@@ -30,6 +30,7 @@ import org.gradle.internal.component.external.model.ImmutableCapabilities
 import org.gradle.internal.component.local.model.ComponentFileArtifactIdentifier
 import org.gradle.internal.component.model.VariantResolveMetadata
 import org.gradle.internal.model.CalculatedValue
+import org.gradle.internal.operations.BuildOperationQueue
 import org.gradle.internal.operations.TestBuildOperationExecutor
 import spock.lang.Specification
 
@@ -166,6 +167,33 @@ class ArtifactBackedResolvedVariantTest extends Specification {
         0 * _
     }
 
+    def "queues downloads of artifacts that cannot be resolved synchronously as unconstrained work"() {
+        def visitor = Mock(ResolvedArtifactSet.Visitor)
+        def actions = Mock(BuildOperationQueue)
+        def source1 = Mock(CalculatedValue)
+        def set1 = of([artifact1, artifact2])
+
+        when:
+        set1.artifacts.visit(visitor)
+
+        then:
+        1 * visitor.visitArtifacts(_) >> { ResolvedArtifactSet.Artifacts artifacts ->
+            artifacts.startFinalization(actions, true)
+        }
+        _ * artifact1.id >> Stub(ComponentArtifactIdentifier)
+        1 * artifact1.resolveSynchronously >> false
+        1 * actions.addUnconstrained(_)
+
+        then:
+        1 * visitor.visitArtifacts(_) >> { ResolvedArtifactSet.Artifacts artifacts ->
+            artifacts.startFinalization(actions, true)
+        }
+        1 * artifact2.resolveSynchronously >> true
+        _ * artifact2.fileSource >> source1
+        1 * source1.finalizeIfNotAlready()
+        0 * _
+    }
+
     def "visits local artifacts"() {
         def visitor = Mock(ResolvedArtifactSet.TransformSourceVisitor)
         def set1 = of([artifact1, artifact2])
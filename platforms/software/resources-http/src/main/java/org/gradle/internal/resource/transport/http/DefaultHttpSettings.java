@@ -47,7 +47,7 @@ public class DefaultHttpSettings implements HttpSettings {
      * This is greater than {@link #DEFAULT_MAX_PER_ROUTE}, so a single repository
      * does not saturate all available connections we can make.
      */
-    private static final int DEFAULT_MAX_CONNECTIONS = DEFAULT_MAX_PER_ROUTE * 4;
+    public static final int DEFAULT_MAX_CONNECTIONS = DEFAULT_MAX_PER_ROUTE * 4;
 
     private final Collection<Authentication> authenticationSettings;
     private final SslContextFactory sslContextFactory;
@@ -155,7 +155,7 @@ public SnapshotVisitResult visitEntry(FileSystemLocationSnapshot snapshot) {
     private static long getFileSnapshotLength(FileSystemLocationSnapshot snapshot) {
         switch (snapshot.getType()) {
             case RegularFile:
-                return ((RegularFileSnapshot) snapshot).getMetadata().getLength();
+                return ((RegularFileSnapshot) snapshot).getLength();
 
             case Missing:
                 return 0;
@@ -38,6 +38,8 @@
 import org.gradle.caching.local.internal.DirectoryBuildCacheServiceFactory;
 import org.gradle.internal.build.BuildState;
 import org.gradle.internal.build.RootBuildState;
+import org.gradle.internal.buildoption.InternalOption;
+import org.gradle.internal.buildoption.InternalOptions;
 import org.gradle.internal.file.BufferProvider;
 import org.gradle.internal.file.Deleter;
 import org.gradle.internal.file.FileException;
@@ -60,11 +62,17 @@
 
 import java.io.File;
 import java.util.List;
+import java.util.zip.Deflater;
 
 /**
  * Build scoped services for build cache usage.
  */
 public final class BuildCacheServices extends AbstractGradleModuleServices {
+    /**
+     * The GZip compression level to use when packing build cache entries.
+     */
+    public static final InternalOption<Integer> COMPRESSION_LEVEL = InternalOptions.ofInt("org.gradle.internal.caching.compression-level", Deflater.DEFAULT_COMPRESSION);
+
     @Override
     public void registerGlobalServices(ServiceRegistration registration) {
         registration.addProvider(new ServiceRegistrationProvider() {
@@ -78,6 +86,7 @@ BufferProvider createBufferProvider() {
 
     @Override
     public void registerBuildTreeServices(ServiceRegistration registration) {
+        registration.add(BuildCacheUnpackExecutor.class);
         registration.addProvider(new ServiceRegistrationProvider() {
             private static final String GRADLE_VERSION_KEY = "gradleVersion";
 
@@ -130,10 +139,13 @@ BuildCacheEntryPacker createResultPacker(
                 FileSystem fileSystem,
                 StreamHasher fileHasher,
                 StringInterner stringInterner,
-                BufferProvider bufferProvider
+                BufferProvider bufferProvider,
+                BuildCacheUnpackExecutor unpackExecutor,
+                InternalOptions internalOptions
             ) {
                 return new GZipBuildCacheEntryPacker(
-                    new TarBuildCacheEntryPacker(fileSystemSupport, new FilePermissionsAccessAdapter(fileSystem), fileHasher, stringInterner, bufferProvider));
+                    new TarBuildCacheEntryPacker(fileSystemSupport, new FilePermissionsAccessAdapter(fileSystem), fileHasher, stringInterner, bufferProvider, unpackExecutor),
+                    compressionLevel(internalOptions));
             }
 
             @Provides
@@ -177,6 +189,15 @@ BuildCacheControllerFactory createBuildCacheControllerFactory(
         });
     }
 
+    static int compressionLevel(InternalOptions internalOptions) {
+        int compressionLevel = internalOptions.getInt(COMPRESSION_LEVEL);
+        if (compressionLevel != Deflater.DEFAULT_COMPRESSION && (compressionLevel < Deflater.BEST_SPEED || compressionLevel > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException(String.format("The value of the '%s' internal option must be between %d and %d, or %d for the default level, not '%d'.",
+                COMPRESSION_LEVEL.getPropertyName(), Deflater.BEST_SPEED, Deflater.BEST_COMPRESSION, Deflater.DEFAULT_COMPRESSION, compressionLevel));
+        }
+        return compressionLevel;
+    }
+
     private static final class FilePermissionsAccessAdapter implements FilePermissionAccess {
 
         private final FileSystem fileSystem;
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.caching.internal;
+
+import org.gradle.internal.concurrent.ExecutorFactory;
+import org.gradle.internal.concurrent.ManagedExecutor;
+import org.gradle.internal.concurrent.Stoppable;
+import org.gradle.internal.service.scopes.Scope;
+import org.gradle.internal.service.scopes.ServiceScope;
+import org.gradle.internal.work.WorkerLimits;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A bounded pool used to write and hash the files of build cache entries while they are being unpacked.
+ * It is sized to the maximum number of workers, so that a build limited via {@code --max-workers} does not write and hash on more threads.
+ */
+@ServiceScope(Scope.BuildTree.class)
+public class BuildCacheUnpackExecutor implements Executor, Stoppable {
+    private final ManagedExecutor executor;
+
+    public BuildCacheUnpackExecutor(ExecutorFactory executorFactory, WorkerLimits workerLimits) {
+        this.executor = executorFactory.create("Build cache unpack", workerLimits.getMaxWorkerCount());
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+
+    @Override
+    public void stop() {
+        executor.stop();
+    }
+}
@@ -81,6 +81,10 @@ public int compare(Node node1, Node node2) {
     private final QueryableExecutionPlan contents;
 
     private final Set<Node> runningNodes = newIdentityHashSet();
+    // The locks that could not be acquired during the current selection scan. No lock is released by another thread while the scan holds the
+    // state lock, so a lock that could not be acquired for one ready node cannot be acquired for any later node in the same scan either.
+    // Many ready nodes often wait on the same project lock, so this avoids repeatedly attempting to acquire it.
+    private final Set<ResourceLock> unavailableLocks = newIdentityHashSet();
     private final Map<Pair<Node, Node>, Boolean> reachableCache = new HashMap<>();
     private final OrdinalNodeAccess ordinalNodeAccess;
     private final Consumer<LocalTaskNode> completionHandler;
@@ -158,6 +162,7 @@ public void close() {
         waitingToStartNodes.clear();
         readyNodes.clear();
         runningNodes.clear();
+        unavailableLocks.clear();
         reachableCache.clear();
         nodesAddedDuringExecution.clear();
     }
@@ -248,6 +253,7 @@ public Selection<Node> selectNext() {
 
         List<ResourceLock> resources = new ArrayList<>();
         boolean nodeBlockedByConflictInOtherPlan = false;
+        unavailableLocks.clear();
         readyNodes.restart();
         while (readyNodes.hasNext()) {
             Node node = readyNodes.next();
@@ -418,11 +424,8 @@ private boolean tryLockProjectFor(Node node, List<ResourceLock> resources) {
         ResourceLock toLock = node.getProjectToLock();
         if (toLock == null) {
             return true;
-        } else if (toLock.tryLock()) {
-            resources.add(toLock);
-            return true;
         } else {
-            return false;
+            return tryLock(toLock, resources);
         }
     }
 
@@ -435,14 +438,25 @@ private void unlockProjectFor(Node node) {
 
     private boolean tryLockSharedResourceFor(Node node, List<ResourceLock> resources) {
         for (ResourceLock resource : node.getResourcesToLock()) {
-            if (!resource.tryLock()) {
+            if (!tryLock(resource, resources)) {
                 return false;
             }
-            resources.add(resource);
         }
         return true;
     }
 
+    private boolean tryLock(ResourceLock lock, List<ResourceLock> resources) {
+        if (unavailableLocks.contains(lock)) {
+            return false;
+        }
+        if (lock.tryLock()) {
+            resources.add(lock);
+            return true;
+        }
+        unavailableLocks.add(lock);
+        return false;
+    }
+
     private void unlockSharedResourcesFor(Node node) {
         node.getResourcesToLock().forEach(ResourceLock::unlock);
     }
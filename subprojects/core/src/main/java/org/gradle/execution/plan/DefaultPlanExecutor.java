@@ -347,6 +347,19 @@ public void appendHealthDiagnostics(TreeFormatter formatter) {
         }
     }
 
+    private static class FinishedItem {
+        final Object item;
+        final WorkSource<Object> plan;
+        @Nullable
+        final Throwable failure;
+
+        public FinishedItem(Object item, WorkSource<Object> plan, @Nullable Throwable failure) {
+            this.item = item;
+            this.plan = plan;
+            this.failure = failure;
+        }
+    }
+
     private static class ExecutorWorker implements Runnable {
         private final MergedQueues queue;
         private WorkerLease workerLease;
@@ -354,6 +367,12 @@ private static class ExecutorWorker implements Runnable {
         private final ResourceLockCoordinationService coordinationService;
         private final WorkerLeaseService workerLeaseService;
         private final WorkerStats stats;
+        /**
+         * The item most recently executed by this worker, which has not yet been reported to its plan.
+         * Completion is reported when the worker next takes the state lock to select work, so that each item costs a single state lock acquisition.
+         */
+        @Nullable
+        private FinishedItem pendingFinish;
 
         private ExecutorWorker(
             MergedQueues queue,
@@ -396,6 +415,11 @@ public void run() {
                     coordinationService.withStateLock(() -> workerLease.unlock());
                 }
             } finally {
+                FinishedItem finished = pendingFinish;
+                if (finished != null) {
+                    pendingFinish = null;
+                    coordinationService.withStateLock(() -> markFinished(finished));
+                }
                 stats.finish();
             }
         }
@@ -414,6 +438,14 @@ private WorkItem getNextItem(final WorkerLease workerLease) {
                 selected = MutableReference.empty();
                 coordinationService.withStateLock(resourceLockState -> {
                     stats.finishWaitingForNextItem();
+                    FinishedItem finished = pendingFinish;
+                    if (finished != null) {
+                        pendingFinish = null;
+                        // Use a nested state lock operation, so that the listeners for any locks released by finishing the item
+                        // are notified when it completes, and not only when this operation completes.
+                        // This way, other plans waiting for those locks see the change before this worker selects its next item
+                        coordinationService.withStateLock(() -> markFinished(finished));
+                    }
                     if (cancellationToken.isCancellationRequested()) {
                         queue.cancelExecution();
                     }
@@ -481,23 +513,22 @@ private void execute(Object selected, WorkSource<Object> executionPlan, Action<O
                     stats.finishExecute();
                 }
             } finally {
-                markFinished(selected, executionPlan, failure);
+                pendingFinish = new FinishedItem(selected, executionPlan, failure);
             }
         }
 
-        private void markFinished(Object selected, WorkSource<Object> executionPlan, @Nullable Throwable failure) {
+        private void markFinished(FinishedItem finished) {
+            coordinationService.assertHasStateLock();
             stats.startMarkFinished();
             try {
-                coordinationService.withStateLock(() -> {
-                    try {
-                        executionPlan.finishedExecuting(selected, failure);
-                    } catch (Throwable t) {
-                        queue.abortAllAndFail(t);
-                    }
-                    // Notify other threads that the item is finished as this may unblock further work
-                    // or this might be the last item in the queue
-                    coordinationService.notifyStateChange();
-                });
+                try {
+                    finished.plan.finishedExecuting(finished.item, finished.failure);
+                } catch (Throwable t) {
+                    queue.abortAllAndFail(t);
+                }
+                // Notify other threads that the item is finished as this may unblock further work
+                // or this might be the last item in the queue
+                coordinationService.notifyStateChange();
             } finally {
                 stats.finishMarkFinished();
             }
@@ -706,6 +737,8 @@ private static class CollectingWorkerStats implements WorkerStats {
         private final CollectingExecutorStats owner;
         private final WorkerState delegate;
         long startCurrentOperation;
+        long startMarkFinished;
+        boolean selecting;
         long totalSelectTime;
         long totalExecuteTime;
         long totalMarkFinishedTime;
@@ -723,10 +756,12 @@ public void finish() {
         @Override
         public void startSelect() {
             startCurrentOperation = System.nanoTime();
+            selecting = true;
         }
 
         @Override
         public void finishSelect() {
+            selecting = false;
             long duration = System.nanoTime() - startCurrentOperation;
             if (duration > 0) {
                 totalSelectTime += duration;
@@ -748,14 +783,19 @@ public void finishExecute() {
 
         @Override
         public void startMarkFinished() {
-            startCurrentOperation = System.nanoTime();
+            // Happens while selecting the next item, so track separately from the current operation
+            startMarkFinished = System.nanoTime();
         }
 
         @Override
         public void finishMarkFinished() {
-            long duration = System.nanoTime() - startCurrentOperation;
+            long duration = System.nanoTime() - startMarkFinished;
             if (duration > 0) {
                 totalMarkFinishedTime += duration;
+                if (selecting) {
+                    // Do not count the time spent marking the item finished as select time as well
+                    startCurrentOperation += duration;
+                }
             }
         }
 
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.caching.internal
+
+import org.gradle.internal.buildoption.DefaultInternalOptions
+import spock.lang.Specification
+
+import java.util.zip.Deflater
+
+class BuildCacheServicesTest extends Specification {
+
+    def "uses default compression level when option is not set"() {
+        expect:
+        BuildCacheServices.compressionLevel(new DefaultInternalOptions([:])) == Deflater.DEFAULT_COMPRESSION
+    }
+
+    def "uses compression level #level when option is set"() {
+        expect:
+        BuildCacheServices.compressionLevel(options(level)) == level
+
+        where:
+        level << [-1, 1, 5, 9]
+    }
+
+    def "rejects compression level #level"() {
+        when:
+        BuildCacheServices.compressionLevel(options(level))
+
+        then:
+        def e = thrown(IllegalArgumentException)
+        e.message == "The value of the 'org.gradle.internal.caching.compression-level' internal option must be between 1 and 9, or -1 for the default level, not '${level}'."
+
+        where:
+        level << [-2, 0, 10]
+    }
+
+    private static DefaultInternalOptions options(int level) {
+        new DefaultInternalOptions([(BuildCacheServices.COMPRESSION_LEVEL.propertyName): level.toString()])
+    }
+}
@@ -59,6 +59,10 @@ abstract class AbstractExecutionPlanSpec extends Specification {
         return locks.findAll { it.locked }.collect { it.project } as Set
     }
 
+    protected int tryLockAttempts(ProjectInternal project) {
+        return locks.find { it.project.is(project) }.tryLockAttempts
+    }
+
     protected void recordLocks(Closure cl) {
         acquired.clear()
         cl()
@@ -175,6 +179,7 @@ abstract class AbstractExecutionPlanSpec extends Specification {
         final Thread owner = Thread.currentThread()
         final ProjectInternal project
         boolean locked
+        int tryLockAttempts
         final Collection<MockLock> locks
 
         MockLock(ProjectInternal project, Collection<MockLock> locks) {
@@ -189,6 +194,7 @@ abstract class AbstractExecutionPlanSpec extends Specification {
 
         @Override
         boolean tryLock() {
+            tryLockAttempts++
             if (!locks.contains(this) && locked) {
                 return false
             }
@@ -978,6 +978,40 @@ class DefaultExecutionPlanParallelTest extends AbstractExecutionPlanSpec {
         !taskNode3.task.project.is(taskNode4.task.project)
     }
 
+    def "busy project lock is attempted once per selection when many nodes wait for it"() {
+        given:
+        def projectA = project(project, "a")
+        def tasks = (1..5).collect { task("task$it", project: projectA) }
+
+        when:
+        addToGraphAndPopulate(*tasks)
+        def taskNode1 = selectNextTaskNode()
+
+        then:
+        taskNode1.task == tasks[0]
+        lockedProjects == [projectA] as Set
+
+        when:
+        def attempts = tryLockAttempts(projectA)
+        assertNoWorkReadyToStartAfterSelect()
+
+        then:
+        // the remaining 4 nodes all wait on the same lock, which is only tried for the first of them
+        tryLockAttempts(projectA) == attempts + 1
+
+        when:
+        finishedExecuting(taskNode1)
+        attempts = tryLockAttempts(projectA)
+        def taskNode2 = selectNextTaskNode()
+
+        then:
+        // the lock is tried again by the next scan once released
+        taskNode2.task == tasks[1]
+        tryLockAttempts(projectA) == attempts + 1
+        lockedProjects == [projectA] as Set
+        assertNoWorkReadyToStartAfterSelect()
+    }
+
     def "a non-async task can start while an async task from the same project is waiting for work to complete"() {
         given:
         def bar = task("bar", type: Async)
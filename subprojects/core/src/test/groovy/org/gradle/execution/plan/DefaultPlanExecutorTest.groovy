@@ -29,6 +29,7 @@ import org.gradle.internal.operations.BuildOperationRef
 import org.gradle.internal.operations.CurrentBuildOperationRef
 import org.gradle.internal.operations.OperationIdentifier
 import org.gradle.internal.resources.DefaultResourceLockCoordinationService
+import org.gradle.internal.resources.ResourceLock
 import org.gradle.internal.work.DefaultWorkerLimits
 import org.gradle.internal.work.WorkerLeaseRegistry
 import org.gradle.internal.work.WorkerLeaseService
@@ -132,6 +133,62 @@ class DefaultPlanExecutorTest extends Specification {
         0 * workSource._
     }
 
+    def "finishes a node and selects the node it unblocked while holding the state lock once"() {
+        def node1 = Mock(LocalTaskNode)
+        def node2 = Mock(LocalTaskNode)
+        def releasedLock = Mock(ResourceLock)
+        def events = []
+        Action<ResourceLock> releaseListener = { events << "released" }
+        coordinationService.addLockReleaseListener(releaseListener)
+
+        when:
+        def result = executor.process(workSource, worker)
+
+        then:
+        result.failures.empty
+        1 * workerLeaseService.currentWorkerLease >> workerLease
+
+        then:
+        1 * cancellationHandler.isCancellationRequested() >> false
+        1 * workerLease.tryLock() >> true
+        1 * workSource.executionState() >> WorkSource.State.MaybeWorkReadyToStart
+        1 * workSource.selectNext() >> WorkSource.Selection.of(node1)
+        1 * worker.execute(node1)
+
+        then:
+        // Finishing node1 releases a lock that node2 was waiting for, and node2 is selected in the same pass.
+        // Lock release listeners, which may be used by other plans, are notified before selecting
+        1 * workSource.finishedExecuting(node1, null) >> {
+            events << "finished"
+            coordinationService.current.registerUnlocked(releasedLock)
+        }
+        1 * cancellationHandler.isCancellationRequested() >> false
+        1 * workerLease.tryLock() >> true
+        1 * workSource.executionState() >> WorkSource.State.MaybeWorkReadyToStart
+        1 * workSource.selectNext() >> {
+            events << "selected"
+            WorkSource.Selection.of(node2)
+        }
+        1 * worker.execute(node2)
+        1 * workSource.finishedExecuting(node2, null)
+
+        then:
+        1 * cancellationHandler.isCancellationRequested() >> false
+        1 * workSource.executionState() >> WorkSource.State.NoMoreWorkToStart
+
+        then:
+        1 * workerLease.tryLock() >> true
+        3 * workSource.allExecutionComplete() >> true
+        1 * workSource.collectFailures([])
+        0 * workSource._
+
+        and:
+        events == ["finished", "released", "selected"]
+
+        cleanup:
+        coordinationService.removeLockReleaseListener(releaseListener)
+    }
+
     def "runs work with the operation that was running when execution started"() {
         def node = Mock(LocalTaskNode)
         def otherOperation = Stub(BuildOperationRef) {